@@ -37,7 +37,7 @@ public class Main {
             }
 
             // Initialize CacheLibrary
-            CacheLibrary cacheLibrary = new CacheLibrary(capacities, readTimes, writeTimes);
+            CacheLibrary<String, String> cacheLibrary = new CacheLibrary<>(capacities, readTimes, writeTimes);
 
             // Input processing loop
             scanner.nextLine(); // Clear the buffer
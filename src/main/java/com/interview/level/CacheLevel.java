@@ -2,26 +2,37 @@ package com.interview.level;
 
 import java.io.IOException;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 
-public interface CacheLevel {
-    String get(String key) throws IOException;
+/**
+ * A single level of the cache hierarchy.
+ *
+ * @param <K> the type of keys held by this level
+ * @param <V> the type of values held by this level
+ */
+public interface CacheLevel<K, V> {
+    V get(K key) throws IOException;
 
-    boolean put(String key, String value) throws IOException;
+    boolean put(K key, V value) throws IOException;
 
-    boolean containsKey(String key);
+    boolean containsKey(K key);
 
     int size();
 
     int capacity();
 
+    /**
+     * Changes the capacity of this level. Shrinking does not evict by itself; callers drain the
+     * overflow through {@link #evictLastCache()} so evicted entries follow the normal demotion path.
+     *
+     * @param capacity the new capacity
+     */
+    void setCapacity(int capacity);
+
     int getReadTime();
 
     int getWriteTime();
 
     boolean isCapacityBreached();
 
-    Map.Entry<String, String>  evictLastCache();
+    Map.Entry<K, V> evictLastCache();
 }
-
@@ -4,11 +4,18 @@ import java.io.IOException;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
-public class LRUCacheLevel implements CacheLevel {
-    private final int capacity;
+/**
+ * In-heap LRU cache level. Values are held as plain object references, so no serialization
+ * takes place on {@link #get} or {@link #put}.
+ *
+ * @param <K> the type of keys held by this level
+ * @param <V> the type of values held by this level
+ */
+public class LRUCacheLevel<K, V> implements CacheLevel<K, V> {
+    private volatile int capacity;
     private final int readTime;
     private final int writeTime;
-    private final LinkedHashMap<String, String> cache;
+    private final LinkedHashMap<K, V> cache;
 
     public LRUCacheLevel(int capacity, int readTime, int writeTime) {
         this.capacity = capacity;
@@ -20,7 +27,7 @@ public class LRUCacheLevel implements CacheLevel {
     }
 
     @Override
-    public String get(String key) throws IOException {
+    public V get(K key) throws IOException {
         // Simulate read time
         try {
             Thread.sleep(readTime);  // Simulating read time delay
@@ -34,7 +41,7 @@ public class LRUCacheLevel implements CacheLevel {
 
 
     @Override
-    public boolean put(String key, String value) throws IOException {
+    public boolean put(K key, V value) throws IOException {
         // Check if the cache is at capacity before adding a new item
         try {
             Thread.sleep(writeTime);  // Simulating read time delay
@@ -50,7 +57,7 @@ public class LRUCacheLevel implements CacheLevel {
     }
 
     @Override
-    public boolean containsKey(String key) {
+    public boolean containsKey(K key) {
         return cache.containsKey(key);
     }
 
@@ -64,6 +71,11 @@ public class LRUCacheLevel implements CacheLevel {
         return capacity;
     }
 
+    @Override
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
     @Override
     public int getReadTime() {
         return readTime;
@@ -81,10 +93,10 @@ public class LRUCacheLevel implements CacheLevel {
     }
 
     @Override
-    public Map.Entry<String, String> evictLastCache() {
+    public Map.Entry<K, V> evictLastCache() {
         // Manually evict the eldest entry if the capacity is breached
         if (cache.size() > capacity) {
-            Map.Entry<String, String> eldestEntry = cache.entrySet().iterator().next();
+            Map.Entry<K, V> eldestEntry = cache.entrySet().iterator().next();
             cache.remove(eldestEntry.getKey());
             return eldestEntry;
         }
@@ -0,0 +1,155 @@
+package com.interview.level;
+
+import com.interview.serializer.Serializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Off-heap LRU cache level. Keys stay on the heap to keep LRU ordering cheap, while each value
+ * is serialized straight into its own direct buffer through the configured {@link Serializer}.
+ * Buffers are rounded up to a power of two, rewritten in place when a key is overwritten and
+ * recycled after eviction, so steady-state writes rarely allocate direct memory.
+ * Because buffers are reused, every access to them happens while holding this level's monitor,
+ * the same lock {@code CacheManager} takes around writes and evictions.
+ *
+ * @param <K> the type of keys held by this level
+ * @param <V> the type of values held by this level
+ */
+public class OffHeapCacheLevel<K, V> implements CacheLevel<K, V> {
+    private static final int MIN_BUFFER_SIZE = 16;
+    private static final int MAX_FREE_BUFFERS = 16;
+
+    private volatile int capacity;
+    private final int readTime;
+    private final int writeTime;
+    private final Serializer<V> serializer;
+    private final LinkedHashMap<K, ByteBuffer> cache;
+    private final ArrayDeque<ByteBuffer> freeBuffers;
+
+    public OffHeapCacheLevel(int capacity, int readTime, int writeTime, Serializer<V> serializer) {
+        this.capacity = capacity;
+        this.readTime = readTime;
+        this.writeTime = writeTime;
+        this.serializer = serializer;
+
+        // accessOrder = true maintains LRU, same as LRUCacheLevel
+        this.cache = new LinkedHashMap<>(capacity, 0.75f, true);
+        this.freeBuffers = new ArrayDeque<>();
+    }
+
+    @Override
+    public V get(K key) throws IOException {
+        try {
+            Thread.sleep(readTime);  // Simulating read time delay
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Read operation interrupted", e);
+        }
+
+        synchronized (this) {
+            ByteBuffer buffer = cache.get(key);
+            // Read through a duplicate so the stored buffer's position is never disturbed
+            return buffer == null ? null : serializer.read(buffer.duplicate());
+        }
+    }
+
+    @Override
+    public boolean put(K key, V value) throws IOException {
+        try {
+            Thread.sleep(writeTime);  // Simulating write time delay
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Write operation interrupted", e);
+        }
+
+        int size = serializer.sizeOf(value);
+        synchronized (this) {
+            ByteBuffer buffer = cache.get(key);
+            if (buffer == null || buffer.capacity() < size) {
+                if (buffer != null) {
+                    releaseBuffer(buffer);
+                }
+                buffer = acquireBuffer(size);
+            }
+            buffer.clear();
+            serializer.write(value, buffer);
+            buffer.flip();
+            cache.put(key, buffer);
+            return cache.size() <= capacity;
+        }
+    }
+
+    @Override
+    public synchronized boolean containsKey(K key) {
+        return cache.containsKey(key);
+    }
+
+    @Override
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public int getReadTime() {
+        return readTime;
+    }
+
+    @Override
+    public int getWriteTime() {
+        return writeTime;
+    }
+
+    @Override
+    public synchronized boolean isCapacityBreached() {
+        return cache.size() > capacity;
+    }
+
+    @Override
+    public synchronized Map.Entry<K, V> evictLastCache() {
+        if (cache.size() > capacity) {
+            Map.Entry<K, ByteBuffer> eldestEntry = cache.entrySet().iterator().next();
+            cache.remove(eldestEntry.getKey());
+            // The evicted value is demoted to the next level, so it has to be materialized here
+            V value = serializer.read(eldestEntry.getValue().duplicate());
+            releaseBuffer(eldestEntry.getValue());
+            return Map.entry(eldestEntry.getKey(), value);
+        }
+        return null;
+    }
+
+    private ByteBuffer acquireBuffer(int size) {
+        Iterator<ByteBuffer> iterator = freeBuffers.iterator();
+        while (iterator.hasNext()) {
+            ByteBuffer buffer = iterator.next();
+            if (buffer.capacity() >= size) {
+                iterator.remove();
+                return buffer;
+            }
+        }
+        // Round up so that slightly larger values can reuse the buffer later
+        int capacity = size <= MIN_BUFFER_SIZE ? MIN_BUFFER_SIZE
+                : size > (1 << 30) ? size : Integer.highestOneBit(size - 1) << 1;
+        return ByteBuffer.allocateDirect(capacity);
+    }
+
+    private void releaseBuffer(ByteBuffer buffer) {
+        if (freeBuffers.size() < MAX_FREE_BUFFERS) {
+            freeBuffers.push(buffer);
+        }
+    }
+}
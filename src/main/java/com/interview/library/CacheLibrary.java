@@ -2,7 +2,11 @@ package com.interview.library;
 
 import com.interview.level.CacheLevel;
 import com.interview.level.LRUCacheLevel;
+import com.interview.level.OffHeapCacheLevel;
+import com.interview.manager.CacheLoader;
 import com.interview.manager.CacheManager;
+import com.interview.manager.CapacityTuner;
+import com.interview.manager.RefreshAhead;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -10,9 +14,13 @@ import java.util.List;
 
 /**
  * CacheLibrary provides an interface to interact with the CacheManager.
+ *
+ * @param <K> the type of keys stored in the cache
+ * @param <V> the type of values stored in the cache
  */
-public class CacheLibrary {
-    private final CacheManager cacheManager;
+public class CacheLibrary<K, V> {
+    private final CacheManager<K, V> cacheManager;
+    private CapacityTuner<K, V> capacityTuner;
 
     /**
      * Initializes the CacheLibrary with given configurations.
@@ -24,8 +32,17 @@ public class CacheLibrary {
      * @throws IOException If there is an error initializing the file-based caches.
      */
     public CacheLibrary(int[] capacities, int[] readTimes, int[] writeTimes) throws IOException {
-        List<CacheLevel> levels = createCacheLevels(capacities, readTimes, writeTimes);
-        this.cacheManager = new CacheManager(levels);
+        this(createCacheLevels(capacities, readTimes, writeTimes));
+    }
+
+    /**
+     * Initializes the CacheLibrary with pre-built cache levels, e.g. to mix in-heap
+     * {@link LRUCacheLevel}s with byte-oriented levels such as {@link OffHeapCacheLevel}.
+     *
+     * @param levels The cache levels, ordered from L1 downwards.
+     */
+    public CacheLibrary(List<CacheLevel<K, V>> levels) {
+        this.cacheManager = new CacheManager<>(levels);
     }
 
     /**
@@ -37,16 +54,44 @@ public class CacheLibrary {
 
      * @return List of CacheLevel objects.
      */
-    private List<CacheLevel> createCacheLevels(int[] capacities, int[] readTimes, int[] writeTimes) throws IOException {
-        List<CacheLevel> levels = new ArrayList<>();
+    private static <K, V> List<CacheLevel<K, V>> createCacheLevels(int[] capacities, int[] readTimes, int[] writeTimes) throws IOException {
+        List<CacheLevel<K, V>> levels = new ArrayList<>();
         for (int i = 0; i < capacities.length; i++) {
 
-            levels.add(new LRUCacheLevel(capacities[i], readTimes[i], writeTimes[i]));
+            levels.add(new LRUCacheLevel<>(capacities[i], readTimes[i], writeTimes[i]));
 
         }
         return levels;
     }
 
+    /**
+     * Enables background tuning of per-level capacities based on observed hit ratios.
+     * Capacity is moved between levels without the total ever exceeding the memory budget.
+     *
+     * @param memoryBudget   The maximum total capacity across all levels.
+     * @param intervalMillis The time between tuning rounds in ms.
+     */
+    public synchronized void enableAutoTuning(int memoryBudget, long intervalMillis) {
+        if (capacityTuner != null) {
+            capacityTuner.stop();
+        }
+        capacityTuner = new CapacityTuner<>(cacheManager, memoryBudget, intervalMillis);
+        capacityTuner.start();
+    }
+
+    /**
+     * Enables refresh-ahead: hot L1 entries that reach the refresh age are re-loaded in the
+     * background while readers keep getting the current value.
+     *
+     * @param loader                 The source refreshed values are loaded from.
+     * @param refreshAfterMillis     The age in ms after which a hot entry is refreshed.
+     * @param minAccessCount         The number of reads since the last load that make an entry hot.
+     * @param maxConcurrentRefreshes The maximum number of refreshes in flight.
+     */
+    public void enableRefreshAhead(CacheLoader<K, V> loader, long refreshAfterMillis, int minAccessCount, int maxConcurrentRefreshes) {
+        cacheManager.setRefreshAhead(new RefreshAhead<>(loader, refreshAfterMillis, minAccessCount, maxConcurrentRefreshes));
+    }
+
     /**
      * Writes a key-value pair to the cache.
      * The write operation is asynchronous and managed by the CacheManager.
@@ -54,7 +99,7 @@ public class CacheLibrary {
      * @param key   The key to write.
      * @param value The value to write.
      */
-    public void put(String key, String value) {
+    public void put(K key, V value) {
         try {
             cacheManager.write(key, value);  // Asynchronous write managed by CacheManager
         } catch (Exception e) {
@@ -68,9 +113,9 @@ public class CacheLibrary {
      * @param key The key to read.
      * @return The value associated with the key.
      */
-    public String get(String key) {
+    public V get(K key) {
         long startTime = System.currentTimeMillis();
-        String value = null;
+        V value = null;
         try {
             value = cacheManager.read(key);  // Synchronous read
             long endTime = System.currentTimeMillis();
@@ -102,6 +147,11 @@ public class CacheLibrary {
      */
     public void shutdown() {
         try {
+            synchronized (this) {
+                if (capacityTuner != null) {
+                    capacityTuner.stop();
+                }
+            }
             cacheManager.shutdown();  // Shutdown ExecutorService
             System.out.println("Cache system shut down successfully.");
         } catch (Exception e) {
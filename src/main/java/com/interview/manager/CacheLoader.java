@@ -0,0 +1,22 @@
+package com.interview.manager;
+
+import java.io.IOException;
+
+/**
+ * Loads values from the system of record behind the cache.
+ *
+ * @param <K> the type of keys loaded
+ * @param <V> the type of values loaded
+ */
+@FunctionalInterface
+public interface CacheLoader<K, V> {
+
+    /**
+     * Loads the current value for a key.
+     *
+     * @param key the key to load
+     * @return the current value, or null if the key no longer exists
+     * @throws IOException if the value could not be loaded
+     */
+    V load(K key) throws IOException;
+}
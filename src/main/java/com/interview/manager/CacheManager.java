@@ -3,8 +3,10 @@ package com.interview.manager;
 import com.interview.level.CacheLevel;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
@@ -15,20 +17,29 @@ import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * CacheManager manages multiple cache levels and provides methods for read, write, and statistics operations.
+ *
+ * @param <K> the type of keys managed by this cache
+ * @param <V> the type of values managed by this cache
  */
-public class CacheManager {
-    private final List<CacheLevel> levels;
+public class CacheManager<K, V> {
+    private final List<CacheLevel<K, V>> levels;
+    private final List<LevelStats<K>> levelStats;
     private final Queue<Long> readTimes;
     private final Queue<Long> writeTimes;
     private final ExecutorService executorService;
+    private volatile RefreshAhead<K, V> refreshAhead;
 
     /**
      * Constructs a CacheManager with the specified cache levels.
      *
      * @param levels A list of cache levels to manage.
      */
-    public CacheManager(List<CacheLevel> levels) {
+    public CacheManager(List<CacheLevel<K, V>> levels) {
         this.levels = levels;
+        this.levelStats = new ArrayList<>();
+        for (int i = 0; i < levels.size(); i++) {
+            levelStats.add(new LevelStats<>());
+        }
         this.readTimes = new ConcurrentLinkedQueue<>();
         this.writeTimes = new ConcurrentLinkedQueue<>();
         this.executorService = Executors.newFixedThreadPool(4);  // Adjust pool size based on needs
@@ -42,19 +53,25 @@ public class CacheManager {
      * @param key the key to be read
      * @return the value associated with the key, or null if not found
      */
-    public String read(String key) throws IOException {
+    public V read(K key) throws IOException {
         long totalReadTime = 0;
-        String value = null;
+        V value = null;
         int foundLevel = -1;
 
         for (int i = 0; i < levels.size(); i++) {
-            CacheLevel level = levels.get(i);
+            CacheLevel<K, V> level = levels.get(i);
             totalReadTime += level.getReadTime();
             value = level.get(key);
             if (value != null) {
+                levelStats.get(i).recordHit();
                 foundLevel = i;
+                RefreshAhead<K, V> refresher = refreshAhead;
+                if (i == 0 && refresher != null) {
+                    refresher.onHit(key, level);
+                }
                 break;
             }
+            levelStats.get(i).recordMiss(key);
         }
 
         if (value == null) {
@@ -76,21 +93,21 @@ public class CacheManager {
      * @param key   the key to be written
      * @param value the value to be associated with the key
      */
-    public void write(String key, String value) {
+    public void write(K key, V value) {
         executorService.submit(() -> {
             long totalWriteTime = 0;
             boolean isWritten = false;
 
             // Use AtomicReference for evictedKey and evictedValue to ensure mutability inside lambda
-            AtomicReference<String> evictedKey = new AtomicReference<>(null);
-            AtomicReference<String> evictedValue = new AtomicReference<>(null);
+            AtomicReference<K> evictedKey = new AtomicReference<>(null);
+            AtomicReference<V> evictedValue = new AtomicReference<>(null);
 
             for (int i = 0; i < levels.size(); i++) {
-                CacheLevel level = levels.get(i);
+                CacheLevel<K, V> level = levels.get(i);
 
                 try {
                     // If the key exists with the same value, skip writing to this level
-                    if (level.containsKey(key) && level.get(key).equals(value)) {
+                    if (level.containsKey(key) && Objects.equals(level.get(key), value)) {
                         break;
                     }
 
@@ -102,8 +119,13 @@ public class CacheManager {
                     // Write the key-value pair to the current level if not already written
                     if (!isWritten) {
                         synchronized (level) {
+                            RefreshAhead<K, V> refresher = refreshAhead;
+                            if (i == 0 && refresher != null) {
+                                refresher.onWrite(key);
+                            }
                             if (!level.put(key, value)){
-                                Map.Entry<String, String> evictedEntry = level.evictLastCache();
+                                Map.Entry<K, V> evictedEntry = level.evictLastCache();
+                                recordEviction(i, evictedEntry.getKey());
                                 evictedKey.set(evictedEntry.getKey());
                                 evictedValue.set(evictedEntry.getValue());
 
@@ -115,7 +137,7 @@ public class CacheManager {
 
                     // If an eviction occurred, try to move the evicted entry to the next level
                     if (evictedKey.get() != null && i + 1 < levels.size()) {
-                        CacheLevel nextLevel = levels.get(i + 1);
+                        CacheLevel<K, V> nextLevel = levels.get(i + 1);
                         synchronized (nextLevel) {
                             nextLevel.put(evictedKey.get(), evictedValue.get());
                         }
@@ -147,31 +169,112 @@ public class CacheManager {
     public void stat() {
         System.out.println("Current Cache Usage:");
         for (int i = 0; i < levels.size(); i++) {
-            CacheLevel level = levels.get(i);
-            System.out.println("L" + (i + 1) + ": " + level.size() + "/" + level.capacity());
+            CacheLevel<K, V> level = levels.get(i);
+            System.out.println("L" + (i + 1) + ": " + level.size() + "/" + level.capacity()
+                    + " [Hit Ratio: " + Math.round(levelStats.get(i).hitRatio() * 100) + "%]");
         }
 
         System.out.println("Average READ Time (last 5 operations): " + getAverageTime(readTimes) + " ms");
         System.out.println("Average WRITE Time (last 5 operations): " + getAverageTime(writeTimes) + " ms");
     }
 
+    /**
+     * Changes the capacity of a cache level at runtime.
+     * When the level shrinks, its least recently used entries are demoted to the next level,
+     * cascading further down if that level overflows in turn.
+     *
+     * @param index       the index of the level to resize
+     * @param newCapacity the new capacity of the level
+     */
+    public void resizeLevel(int index, int newCapacity) throws IOException {
+        CacheLevel<K, V> level = levels.get(index);
+        synchronized (level) {
+            level.setCapacity(newCapacity);
+        }
+        demoteOverflow(index);
+    }
+
+    /**
+     * Enables refresh-ahead for hot L1 entries, replacing any previous configuration.
+     *
+     * @param refreshAhead the refresh-ahead policy, or null to disable it
+     */
+    public void setRefreshAhead(RefreshAhead<K, V> refreshAhead) {
+        RefreshAhead<K, V> previous = this.refreshAhead;
+        this.refreshAhead = refreshAhead;
+        if (previous != null) {
+            previous.shutdown();
+        }
+    }
+
+    /**
+     * Moves capacity from one cache level to another at runtime, keeping the total unchanged.
+     * Both capacities are updated before the donor's overflow is demoted, so when the receiver
+     * sits below the donor an entry pushed out of the donor can land in the freed slot.
+     *
+     * @param donor    the index of the level that gives up capacity
+     * @param receiver the index of the level that gains capacity
+     * @param amount   the capacity to move
+     */
+    public void transferCapacity(int donor, int receiver, int amount) throws IOException {
+        CacheLevel<K, V> donorLevel = levels.get(donor);
+        CacheLevel<K, V> receiverLevel = levels.get(receiver);
+        // Shrink first so the total never exceeds what it was
+        synchronized (donorLevel) {
+            donorLevel.setCapacity(donorLevel.capacity() - amount);
+        }
+        synchronized (receiverLevel) {
+            receiverLevel.setCapacity(receiverLevel.capacity() + amount);
+        }
+        demoteOverflow(donor);
+    }
+
+    /**
+     * Returns the number of cache levels managed.
+     */
+    public int getLevelCount() {
+        return levels.size();
+    }
+
+    /**
+     * Returns the current capacity of a cache level.
+     *
+     * @param index the index of the level
+     */
+    public int getLevelCapacity(int index) {
+        return levels.get(index).capacity();
+    }
+
+    /**
+     * Returns the hit, miss and ghost-hit counters of a cache level.
+     *
+     * @param index the index of the level
+     */
+    public LevelStats<K> getLevelStats(int index) {
+        return levelStats.get(index);
+    }
+
     /**
      * Shuts down the ExecutorService to stop all asynchronous tasks.
      */
     public void shutdown() {
+        RefreshAhead<K, V> refresher = refreshAhead;
+        if (refresher != null) {
+            refresher.shutdown();
+        }
         executorService.shutdown();
         System.out.println("ExecutorService shut down.");
     }
 
-    private void asyncWriteToHigherLevels(String key, String value, int startLevel) {
-        AtomicReference<String> evictedKey = new AtomicReference<>(key);
-        AtomicReference<String> evictedValue = new AtomicReference<>(value);
+    private void asyncWriteToHigherLevels(K key, V value, int startLevel) {
+        AtomicReference<K> evictedKey = new AtomicReference<>(key);
+        AtomicReference<V> evictedValue = new AtomicReference<>(value);
         AtomicBoolean isWritten = new AtomicBoolean(false);  // To track the write state
         AtomicLong totalWriteTime = new AtomicLong(0);       // To track total write time
 
         // Iterate over levels from 0 up to (but not including) the startLevel
         for (int i = 0; i < startLevel && i < levels.size(); i++) {
-            CacheLevel level = levels.get(i);
+            CacheLevel<K, V> level = levels.get(i);
 
             int finalI = i;
             executorService.submit(() -> {
@@ -181,7 +284,8 @@ public class CacheManager {
                         if (!isWritten.get()) {
                             if (!level.put(evictedKey.get(), evictedValue.get())) {
                                 // Eviction occurred, evict the last entry
-                                Map.Entry<String, String> evictedEntry = level.evictLastCache();
+                                Map.Entry<K, V> evictedEntry = level.evictLastCache();
+                                recordEviction(finalI, evictedEntry.getKey());
                                 evictedKey.set(evictedEntry.getKey());
                                 evictedValue.set(evictedEntry.getValue());
                             } else {
@@ -195,7 +299,7 @@ public class CacheManager {
 
                         // If an eviction occurred, propagate the evicted key-value to the next level
                         if (evictedKey.get() != null && finalI + 1 < startLevel) {
-                            CacheLevel nextLevel = levels.get(finalI + 1);
+                            CacheLevel<K, V> nextLevel = levels.get(finalI + 1);
                             synchronized (nextLevel) {
                                 nextLevel.put(evictedKey.get(), evictedValue.get());
                             }
@@ -221,6 +325,46 @@ public class CacheManager {
     }
 
 
+    private void demoteOverflow(int startLevel) throws IOException {
+        for (int i = startLevel; i < levels.size(); i++) {
+            CacheLevel<K, V> level = levels.get(i);
+            List<Map.Entry<K, V>> evictedEntries = new ArrayList<>();
+            synchronized (level) {
+                while (level.isCapacityBreached()) {
+                    Map.Entry<K, V> evictedEntry = level.evictLastCache();
+                    recordEviction(i, evictedEntry.getKey());
+                    evictedEntries.add(evictedEntry);
+                }
+            }
+            if (evictedEntries.isEmpty()) {
+                return;
+            }
+
+            if (i + 1 == levels.size()) {
+                for (Map.Entry<K, V> evictedEntry : evictedEntries) {
+                    System.out.println("Final eviction at the last level: " + evictedEntry.getKey() + " -> " + evictedEntry.getValue());
+                }
+                return;
+            }
+
+            // Demote to the next level; it is drained on the next iteration if this overflows it
+            CacheLevel<K, V> nextLevel = levels.get(i + 1);
+            synchronized (nextLevel) {
+                for (Map.Entry<K, V> evictedEntry : evictedEntries) {
+                    nextLevel.put(evictedEntry.getKey(), evictedEntry.getValue());
+                }
+            }
+        }
+    }
+
+    private void recordEviction(int index, K key) {
+        levelStats.get(index).recordEviction(key, levels.get(index).capacity());
+        RefreshAhead<K, V> refresher = refreshAhead;
+        if (index == 0 && refresher != null) {
+            refresher.forget(key);
+        }
+    }
+
     private void recordReadTime(long time) {
         if (readTimes.size() >= 5) {
             readTimes.poll();
@@ -245,7 +389,7 @@ public class CacheManager {
      * @param key the key to check
      * @return the index of the level containing the key, or -1 if not found
      */
-    public int getLevelOfKey(String key) {
+    public int getLevelOfKey(K key) {
         for (int i = 0; i < levels.size(); i++) {
             if (levels.get(i).containsKey(key)) {
                 return i;
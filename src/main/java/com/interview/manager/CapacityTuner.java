@@ -0,0 +1,165 @@
+package com.interview.manager;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CapacityTuner periodically rebalances level capacities within a global memory budget.
+ * Each round it compares the ghost hits every level collected since the previous round and
+ * moves capacity from the level that would gain the least from it to the level that would
+ * gain the most. Shrinking a level demotes its overflow through {@link CacheManager#transferCapacity}.
+ *
+ * @param <K> the type of keys managed by the cache
+ * @param <V> the type of values managed by the cache
+ */
+public class CapacityTuner<K, V> {
+    private static final int DEFAULT_STEP = 1;
+    private static final int DEFAULT_MIN_CAPACITY = 1;
+
+    private final CacheManager<K, V> cacheManager;
+    private final int memoryBudget;
+    private final int step;
+    private final int minCapacity;
+    private final long intervalMillis;
+    private final long[] lastHits;
+    private final long[] lastMisses;
+    private final long[] lastGhostHits;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs a CapacityTuner that moves one entry of capacity per round.
+     *
+     * @param cacheManager   the cache whose levels are tuned
+     * @param memoryBudget   the maximum total capacity across all levels
+     * @param intervalMillis the time between tuning rounds in ms
+     */
+    public CapacityTuner(CacheManager<K, V> cacheManager, int memoryBudget, long intervalMillis) {
+        this(cacheManager, memoryBudget, DEFAULT_STEP, DEFAULT_MIN_CAPACITY, intervalMillis);
+    }
+
+    /**
+     * Constructs a CapacityTuner.
+     *
+     * @param cacheManager   the cache whose levels are tuned
+     * @param memoryBudget   the maximum total capacity across all levels
+     * @param step           the capacity moved between levels per round
+     * @param minCapacity    the capacity below which no level is shrunk
+     * @param intervalMillis the time between tuning rounds in ms
+     */
+    public CapacityTuner(CacheManager<K, V> cacheManager, int memoryBudget, int step, int minCapacity, long intervalMillis) {
+        int totalCapacity = 0;
+        for (int i = 0; i < cacheManager.getLevelCount(); i++) {
+            totalCapacity += cacheManager.getLevelCapacity(i);
+        }
+        if (memoryBudget < totalCapacity) {
+            throw new IllegalArgumentException("Memory budget " + memoryBudget + " is below the current total capacity " + totalCapacity);
+        }
+        if (step <= 0 || minCapacity <= 0 || intervalMillis <= 0) {
+            throw new IllegalArgumentException("Step, minimum capacity and interval must be positive");
+        }
+
+        this.cacheManager = cacheManager;
+        this.memoryBudget = memoryBudget;
+        this.step = step;
+        this.minCapacity = minCapacity;
+        this.intervalMillis = intervalMillis;
+        this.lastHits = new long[cacheManager.getLevelCount()];
+        this.lastMisses = new long[cacheManager.getLevelCount()];
+        this.lastGhostHits = new long[cacheManager.getLevelCount()];
+    }
+
+    /**
+     * Starts tuning in the background.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-capacity-tuner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                tune();
+            } catch (Exception e) {
+                System.err.println("Error tuning cache capacities: " + e.getMessage());
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops background tuning. Capacities keep the values of the last round.
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Runs a single tuning round over the counters collected since the previous round.
+     */
+    synchronized void tune() throws IOException {
+        int levelCount = cacheManager.getLevelCount();
+        long[] ghostHits = new long[levelCount];
+        double[] hitRatios = new double[levelCount];
+        int totalCapacity = 0;
+
+        for (int i = 0; i < levelCount; i++) {
+            LevelStats<K> stats = cacheManager.getLevelStats(i);
+            long hits = stats.getHits();
+            long misses = stats.getMisses();
+            long ghosts = stats.getGhostHits();
+
+            long lookups = (hits - lastHits[i]) + (misses - lastMisses[i]);
+            ghostHits[i] = ghosts - lastGhostHits[i];
+            hitRatios[i] = lookups == 0 ? 0.0 : (double) (hits - lastHits[i]) / lookups;
+            totalCapacity += cacheManager.getLevelCapacity(i);
+
+            lastHits[i] = hits;
+            lastMisses[i] = misses;
+            lastGhostHits[i] = ghosts;
+        }
+
+        // The level that would have served the most extra hits with more room
+        int receiver = -1;
+        for (int i = 0; i < levelCount; i++) {
+            if (ghostHits[i] > 0 && (receiver == -1 || ghostHits[i] > ghostHits[receiver])) {
+                receiver = i;
+            }
+        }
+        if (receiver == -1) {
+            return;
+        }
+
+        // Grow into unused budget before taking capacity away from anyone
+        int freeBudget = memoryBudget - totalCapacity;
+        if (freeBudget > 0) {
+            cacheManager.resizeLevel(receiver, cacheManager.getLevelCapacity(receiver) + Math.min(step, freeBudget));
+            return;
+        }
+
+        // The level that loses the least, preferring the lower hit ratio on ties
+        int donor = -1;
+        for (int i = 0; i < levelCount; i++) {
+            if (i == receiver || cacheManager.getLevelCapacity(i) - step < minCapacity) {
+                continue;
+            }
+            if (donor == -1 || ghostHits[i] < ghostHits[donor]
+                    || (ghostHits[i] == ghostHits[donor] && hitRatios[i] < hitRatios[donor])) {
+                donor = i;
+            }
+        }
+        if (donor == -1 || ghostHits[donor] >= ghostHits[receiver]) {
+            return;
+        }
+
+        cacheManager.transferCapacity(donor, receiver, step);
+        System.out.println("Moved capacity " + step + " from L" + (donor + 1) + " to L" + (receiver + 1));
+    }
+}
@@ -0,0 +1,68 @@
+package com.interview.manager;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hit, miss and ghost-hit counters for a single cache level.
+ * A ghost hit is a miss on a key this level evicted recently, i.e. a miss that a larger
+ * capacity would have turned into a hit.
+ *
+ * @param <K> the type of keys tracked
+ */
+public class LevelStats<K> {
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong ghostHits = new AtomicLong();
+    private final LinkedHashSet<K> ghosts = new LinkedHashSet<>();
+
+    void recordHit() {
+        hits.incrementAndGet();
+    }
+
+    void recordMiss(K key) {
+        misses.incrementAndGet();
+        synchronized (ghosts) {
+            if (ghosts.remove(key)) {
+                ghostHits.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Remembers an evicted key. The ghost list is bounded by the level's capacity,
+     * so it only covers what a level twice the current size would still hold.
+     */
+    void recordEviction(K key, int capacity) {
+        synchronized (ghosts) {
+            ghosts.remove(key);
+            ghosts.add(key);
+            Iterator<K> iterator = ghosts.iterator();
+            while (ghosts.size() > Math.max(capacity, 1) && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getGhostHits() {
+        return ghostHits.get();
+    }
+
+    /**
+     * Returns the fraction of lookups at this level that were hits, or 0 if it has not been probed.
+     */
+    public double hitRatio() {
+        long lookups = getHits() + getMisses();
+        return lookups == 0 ? 0.0 : (double) getHits() / lookups;
+    }
+}
@@ -0,0 +1,162 @@
+package com.interview.manager;
+
+import com.interview.level.CacheLevel;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RefreshAhead re-loads hot L1 entries in the background once they reach a configured age,
+ * while readers keep being served the current value. Only keys read at least a minimum number
+ * of times since their last load are refreshed, and at most a fixed number of refreshes run at once.
+ *
+ * @param <K> the type of keys managed by the cache
+ * @param <V> the type of values managed by the cache
+ */
+public class RefreshAhead<K, V> {
+    private final CacheLoader<K, V> loader;
+    private final long refreshAfterMillis;
+    private final int minAccessCount;
+    private final Semaphore refreshPermits;
+    private final ExecutorService executorService;
+    private final Map<K, EntryState> entries;
+
+    /**
+     * Constructs a RefreshAhead.
+     *
+     * @param loader                 the source refreshed values are loaded from
+     * @param refreshAfterMillis     the age in ms after which a hot entry is refreshed
+     * @param minAccessCount         the number of reads since the last load that make an entry hot
+     * @param maxConcurrentRefreshes the maximum number of refreshes in flight
+     */
+    public RefreshAhead(CacheLoader<K, V> loader, long refreshAfterMillis, int minAccessCount, int maxConcurrentRefreshes) {
+        if (refreshAfterMillis < 0 || minAccessCount <= 0 || maxConcurrentRefreshes <= 0) {
+            throw new IllegalArgumentException("Refresh age must not be negative, access count and concurrency must be positive");
+        }
+        this.loader = loader;
+        this.refreshAfterMillis = refreshAfterMillis;
+        this.minAccessCount = minAccessCount;
+        this.refreshPermits = new Semaphore(maxConcurrentRefreshes);
+        this.executorService = Executors.newFixedThreadPool(maxConcurrentRefreshes, runnable -> {
+            Thread thread = new Thread(runnable, "cache-refresh-ahead");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.entries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Records that a new value for the key was written to L1. Resets its age and discards
+     * any refresh already in flight for the previous value.
+     * Must be called while holding the L1 lock, before the value is put.
+     */
+    void onWrite(K key) {
+        EntryState state = entries.computeIfAbsent(key, k -> new EntryState());
+        state.version.incrementAndGet();
+        state.loadedAt = System.currentTimeMillis();
+        state.accessCount.set(0);
+    }
+
+    /**
+     * Records a read served from L1 and schedules a refresh if the entry is hot and old enough.
+     */
+    void onHit(K key, CacheLevel<K, V> level) {
+        EntryState state = trackedState(key, level);
+        if (state == null) {
+            return;
+        }
+        int accesses = state.accessCount.incrementAndGet();
+        if (accesses < minAccessCount || System.currentTimeMillis() - state.loadedAt < refreshAfterMillis) {
+            return;
+        }
+        if (!state.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        if (!refreshPermits.tryAcquire()) {
+            // Over the concurrency limit; the next hit tries again
+            state.refreshing.set(false);
+            return;
+        }
+
+        long version = state.version.get();
+        try {
+            executorService.submit(() -> refresh(key, level, state, version));
+        } catch (RejectedExecutionException e) {
+            // Refreshing is best-effort; the reader already has its value
+            refreshPermits.release();
+            state.refreshing.set(false);
+        }
+    }
+
+    /**
+     * Stops tracking a key once it has left L1.
+     */
+    void forget(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Returns the number of keys whose refresh state is being tracked.
+     */
+    int trackedKeyCount() {
+        return entries.size();
+    }
+
+    /**
+     * Shuts down the refresh threads. Refreshes already running are allowed to finish.
+     */
+    void shutdown() {
+        executorService.shutdown();
+    }
+
+    private EntryState trackedState(K key, CacheLevel<K, V> level) {
+        EntryState state = entries.get(key);
+        if (state != null) {
+            return state;
+        }
+        // Only track keys still in L1; evictions call forget under the same lock
+        synchronized (level) {
+            return level.containsKey(key) ? entries.computeIfAbsent(key, k -> new EntryState()) : null;
+        }
+    }
+
+    private void refresh(K key, CacheLevel<K, V> level, EntryState state, long version) {
+        try {
+            V value = loader.load(key);
+            synchronized (level) {
+                // Skip if the key was evicted or rewritten while loading
+                if (entries.get(key) == state && state.version.get() == version && level.containsKey(key)) {
+                    if (value != null) {
+                        level.put(key, value);
+                    }
+                    // A key missing from the loader is only retried after another full refresh age
+                    state.loadedAt = System.currentTimeMillis();
+                }
+            }
+            state.accessCount.set(0);
+        } catch (IOException | RuntimeException e) {
+            // Back off on failures too, so a broken loader is not called on every hot read
+            state.loadedAt = System.currentTimeMillis();
+            state.accessCount.set(0);
+            System.err.println("Error refreshing key " + key + ": " + e.getMessage());
+        } finally {
+            state.refreshing.set(false);
+            refreshPermits.release();
+        }
+    }
+
+    private static class EntryState {
+        private final AtomicLong version = new AtomicLong();
+        private final AtomicInteger accessCount = new AtomicInteger();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile long loadedAt = System.currentTimeMillis();
+    }
+}
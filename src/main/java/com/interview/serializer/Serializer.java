@@ -0,0 +1,38 @@
+package com.interview.serializer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts values to and from the byte representation used by byte-oriented cache levels.
+ * Implementations write straight into the level's buffer and read straight out of it,
+ * so no intermediate {@code byte[]} is created on either path.
+ *
+ * @param <T> the type of value handled by this serializer
+ */
+public interface Serializer<T> {
+
+    /**
+     * Returns the exact number of bytes {@link #write} will produce for the given value.
+     *
+     * @param value the value to measure
+     * @return the serialized size in bytes
+     */
+    int sizeOf(T value);
+
+    /**
+     * Writes the value into the target buffer starting at its current position.
+     * The buffer is guaranteed to have at least {@link #sizeOf} bytes remaining.
+     *
+     * @param value  the value to write
+     * @param target the buffer to write into
+     */
+    void write(T value, ByteBuffer target);
+
+    /**
+     * Reads a value from the source buffer, consuming its remaining bytes.
+     *
+     * @param source the buffer to read from
+     * @return the deserialized value
+     */
+    T read(ByteBuffer source);
+}
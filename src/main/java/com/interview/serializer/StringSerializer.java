@@ -0,0 +1,55 @@
+package com.interview.serializer;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8 serializer for strings. Encodes directly into the target buffer.
+ */
+public class StringSerializer implements Serializer<String> {
+    private static final ThreadLocal<CharsetEncoder> ENCODER = ThreadLocal.withInitial(() -> StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE));
+
+    @Override
+    public int sizeOf(String value) {
+        // Compute the UTF-8 length without encoding into a temporary array
+        int size = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                size += 1;
+            } else if (c < 0x800) {
+                size += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                size += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                size += 1;  // Unpaired surrogates are replaced with '?'
+            } else {
+                size += 3;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public void write(String value, ByteBuffer target) {
+        CharsetEncoder encoder = ENCODER.get().reset();
+        CoderResult result = encoder.encode(CharBuffer.wrap(value), target, true);
+        if (result.isError() || result.isOverflow()) {
+            throw new IllegalArgumentException("Unable to encode value: " + result);
+        }
+        encoder.flush(target);
+    }
+
+    @Override
+    public String read(ByteBuffer source) {
+        return StandardCharsets.UTF_8.decode(source).toString();
+    }
+}
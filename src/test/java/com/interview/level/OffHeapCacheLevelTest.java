@@ -0,0 +1,102 @@
+package com.interview.level;
+
+import com.interview.serializer.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapCacheLevelTest {
+
+    private OffHeapCacheLevel<String, String> level;
+
+    @BeforeEach
+    void setUp() {
+        level = new OffHeapCacheLevel<>(2, 0, 0, new StringSerializer());
+    }
+
+    @Test
+    void testPutAndGetRoundTrip() throws IOException {
+        assertTrue(level.put("1", "value1"));
+        assertTrue(level.put("2", "välüe-€-😀"));
+
+        assertEquals("value1", level.get("1"));
+        assertEquals("välüe-€-😀", level.get("2"));
+        // Repeated reads must not consume the stored buffer
+        assertEquals("value1", level.get("1"));
+        assertNull(level.get("3"));
+    }
+
+    @Test
+    void testOverwriteReusesBufferWithoutStaleBytes() throws IOException {
+        level.put("1", "a-long-initial-value");
+        level.put("1", "short");
+        assertEquals("short", level.get("1"));
+
+        level.put("1", "a value that no longer fits the original buffer");
+        assertEquals("a value that no longer fits the original buffer", level.get("1"));
+        assertEquals(1, level.size());
+    }
+
+    @Test
+    void testEvictedBufferIsRecycled() throws IOException {
+        level.put("1", "value1");
+        level.put("2", "value2");
+        level.put("3", "value3");
+        level.evictLastCache();
+
+        level.put("4", "value4");
+        level.evictLastCache();
+
+        assertEquals("value3", level.get("3"));
+        assertEquals("value4", level.get("4"));
+    }
+
+    @Test
+    void testConcurrentReadsNeverSeeTornValues() throws Exception {
+        String first = "A".repeat(30);
+        String second = "B".repeat(30);
+        level.put("1", first);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            try {
+                for (int i = 0; running.get(); i++) {
+                    level.put("1", i % 2 == 0 ? second : first);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        writer.start();
+        try {
+            for (int i = 0; i < 20_000; i++) {
+                String value = level.get("1");
+                assertTrue(first.equals(value) || second.equals(value), "Torn read: " + value);
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+    }
+
+    @Test
+    void testEvictLastCacheReturnsLeastRecentlyUsed() throws IOException {
+        level.put("1", "value1");
+        level.put("2", "value2");
+        level.get("1");
+
+        assertFalse(level.put("3", "value3"));
+        assertTrue(level.isCapacityBreached());
+
+        Map.Entry<String, String> evicted = level.evictLastCache();
+        assertEquals("2", evicted.getKey());
+        assertEquals("value2", evicted.getValue());
+        assertEquals(2, level.size());
+        assertFalse(level.containsKey("2"));
+    }
+}
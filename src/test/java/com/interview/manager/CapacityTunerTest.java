@@ -0,0 +1,130 @@
+package com.interview.manager;
+
+import com.interview.level.CacheLevel;
+import com.interview.level.LRUCacheLevel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CapacityTunerTest {
+
+    private CacheManager<String, String> cacheManager;
+    private CacheLevel<String, String> level1;
+    private CacheLevel<String, String> level2;
+
+    @BeforeEach
+    void setUp() {
+        level1 = new LRUCacheLevel<>(2, 0, 0);
+        level2 = new LRUCacheLevel<>(4, 0, 0);
+        List<CacheLevel<String, String>> levels = Arrays.asList(level1, level2);
+        cacheManager = new CacheManager<>(levels);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.shutdown();
+    }
+
+    @Test
+    void testTuneMovesCapacityTowardsGhostHits() throws IOException {
+        CapacityTuner<String, String> tuner = new CapacityTuner<>(cacheManager, 6, 1000);
+
+        // L1 recently evicted "1" and is then asked for it again
+        LevelStats<String> stats = cacheManager.getLevelStats(0);
+        stats.recordEviction("1", level1.capacity());
+        stats.recordMiss("1");
+
+        tuner.tune();
+
+        assertEquals(3, cacheManager.getLevelCapacity(0));
+        assertEquals(3, cacheManager.getLevelCapacity(1));
+    }
+
+    @Test
+    void testTuneDoesNotDropEntriesWhenLevelsAreFull() throws IOException {
+        CacheLevel<String, String> full1 = new LRUCacheLevel<>(2, 0, 0);
+        CacheLevel<String, String> full2 = new LRUCacheLevel<>(2, 0, 0);
+        CacheLevel<String, String> full3 = new LRUCacheLevel<>(2, 0, 0);
+        CacheManager<String, String> fullManager = new CacheManager<>(Arrays.asList(full1, full2, full3));
+        try {
+            List<CacheLevel<String, String>> fullLevels = Arrays.asList(full1, full2, full3);
+            for (int i = 0; i < 6; i++) {
+                fullLevels.get(i / 2).put("k" + i, "value" + i);
+            }
+            CapacityTuner<String, String> tuner = new CapacityTuner<>(fullManager, 6, 1000);
+
+            LevelStats<String> stats = fullManager.getLevelStats(1);
+            stats.recordEviction("k9", full2.capacity());
+            stats.recordMiss("k9");
+
+            tuner.tune();
+
+            assertEquals(1, full1.capacity());
+            assertEquals(3, full2.capacity());
+            assertEquals(2, full3.capacity());
+            assertEquals(6, full1.size() + full2.size() + full3.size());
+            assertFalse(full1.isCapacityBreached() || full2.isCapacityBreached() || full3.isCapacityBreached());
+        } finally {
+            fullManager.shutdown();
+        }
+    }
+
+    @Test
+    void testTuneShrinksFullLowerLevelForL1() throws IOException {
+        level1.put("1", "value1");
+        level1.put("2", "value2");
+        for (int i = 3; i <= 6; i++) {
+            level2.put(String.valueOf(i), "value" + i);
+        }
+        CapacityTuner<String, String> tuner = new CapacityTuner<>(cacheManager, 6, 1000);
+
+        LevelStats<String> stats = cacheManager.getLevelStats(0);
+        stats.recordEviction("9", level1.capacity());
+        stats.recordMiss("9");
+
+        tuner.tune();
+
+        assertEquals(3, level1.capacity());
+        assertEquals(3, level2.capacity());
+        assertFalse(level1.isCapacityBreached());
+        assertFalse(level2.isCapacityBreached());
+        assertEquals(3, level2.size());
+    }
+
+    @Test
+    void testTuneGrowsIntoFreeBudget() throws IOException {
+        CapacityTuner<String, String> tuner = new CapacityTuner<>(cacheManager, 10, 1000);
+
+        LevelStats<String> stats = cacheManager.getLevelStats(1);
+        stats.recordEviction("1", level2.capacity());
+        stats.recordMiss("1");
+
+        tuner.tune();
+
+        assertEquals(2, cacheManager.getLevelCapacity(0));
+        assertEquals(5, cacheManager.getLevelCapacity(1));
+    }
+
+    @Test
+    void testTuneWithoutGhostHitsKeepsCapacities() throws IOException {
+        CapacityTuner<String, String> tuner = new CapacityTuner<>(cacheManager, 6, 1000);
+
+        cacheManager.getLevelStats(0).recordMiss("1");
+
+        tuner.tune();
+
+        assertEquals(2, cacheManager.getLevelCapacity(0));
+        assertEquals(4, cacheManager.getLevelCapacity(1));
+    }
+
+    @Test
+    void testBudgetBelowTotalCapacityIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new CapacityTuner<>(cacheManager, 5, 1000));
+    }
+}
@@ -0,0 +1,151 @@
+package com.interview.manager;
+
+import com.interview.level.CacheLevel;
+import com.interview.level.LRUCacheLevel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RefreshAheadTest {
+
+    private CacheManager<String, String> cacheManager;
+    private CacheLevel<String, String> level1;
+
+    @BeforeEach
+    void setUp() {
+        level1 = new LRUCacheLevel<>(5, 0, 0);
+        CacheLevel<String, String> level2 = new LRUCacheLevel<>(5, 0, 0);
+        cacheManager = new CacheManager<>(Arrays.asList(level1, level2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testHotKeyIsRefreshedWhileServingCurrentValue() throws Exception {
+        CacheLoader<String, String> loader = mock(CacheLoader.class);
+        when(loader.load("1")).thenReturn("fresh1");
+        cacheManager.setRefreshAhead(new RefreshAhead<>(loader, 0, 2, 1));
+        level1.put("1", "value1");
+
+        assertEquals("value1", cacheManager.read("1"));
+        verify(loader, after(100).never()).load("1");
+
+        // The second read makes the key hot; it is still served the current value
+        assertEquals("value1", cacheManager.read("1"));
+        verify(loader, timeout(1000)).load("1");
+        awaitValue("1", "fresh1");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testEntryYoungerThanRefreshAgeIsNotRefreshed() throws Exception {
+        CacheLoader<String, String> loader = mock(CacheLoader.class);
+        cacheManager.setRefreshAhead(new RefreshAhead<>(loader, 60_000, 1, 1));
+        level1.put("1", "value1");
+
+        cacheManager.read("1");
+        cacheManager.read("1");
+
+        verify(loader, after(100).never()).load(anyString());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMissingKeyBacksOffUntilNextRefreshAge() throws Exception {
+        CacheLoader<String, String> loader = mock(CacheLoader.class);
+        when(loader.load("1")).thenReturn(null);
+        cacheManager.setRefreshAhead(new RefreshAhead<>(loader, 200, 1, 1));
+        level1.put("1", "value1");
+
+        cacheManager.read("1");
+        Thread.sleep(250);
+        cacheManager.read("1");
+        verify(loader, timeout(1000)).load("1");
+
+        // Within the next refresh age the loader is not called again
+        Thread.sleep(50);
+        for (int i = 0; i < 5; i++) {
+            assertEquals("value1", cacheManager.read("1"));
+        }
+        verify(loader, after(50).times(1)).load("1");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testHitOnEvictedKeyIsNotTracked() throws Exception {
+        CacheLoader<String, String> loader = mock(CacheLoader.class);
+        RefreshAhead<String, String> refreshAhead = new RefreshAhead<>(loader, 0, 1, 1);
+
+        // The key left L1 between the read and the hit being recorded
+        refreshAhead.onHit("1", level1);
+
+        verify(loader, after(100).never()).load(anyString());
+        assertEquals(0, refreshAhead.trackedKeyCount());
+        refreshAhead.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testReadAfterShutdownStillReturnsValue() throws Exception {
+        CacheLoader<String, String> loader = mock(CacheLoader.class);
+        cacheManager.setRefreshAhead(new RefreshAhead<>(loader, 0, 1, 1));
+        level1.put("1", "value1");
+
+        cacheManager.shutdown();
+
+        assertEquals("value1", cacheManager.read("1"));
+        verify(loader, never()).load(anyString());
+    }
+
+    @Test
+    void testConcurrentRefreshesAreBounded() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        CacheLoader<String, String> loader = key -> {
+            loads.incrementAndGet();
+            try {
+                release.await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Load interrupted", e);
+            }
+            return "fresh" + key;
+        };
+        cacheManager.setRefreshAhead(new RefreshAhead<>(loader, 0, 1, 2));
+        for (int i = 1; i <= 4; i++) {
+            level1.put(String.valueOf(i), "value" + i);
+        }
+
+        for (int i = 1; i <= 4; i++) {
+            assertEquals("value" + i, cacheManager.read(String.valueOf(i)));
+        }
+        Thread.sleep(100);
+        assertEquals(2, loads.get());
+
+        release.countDown();
+        awaitValue("1", "fresh1");
+        awaitValue("2", "fresh2");
+        assertEquals("value3", level1.get("3"));
+    }
+
+    private void awaitValue(String key, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (!expected.equals(level1.get(key)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, level1.get(key));
+    }
+}